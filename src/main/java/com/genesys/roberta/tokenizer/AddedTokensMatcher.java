@@ -0,0 +1,183 @@
+package com.genesys.roberta.tokenizer;
+
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Finds added (special) tokens such as "&lt;mask&gt;" or "&lt;pad&gt;" in a sentence using an Aho-Corasick automaton.
+ * The automaton is built once, then every sentence is scanned in a single linear pass regardless of how many added
+ * tokens are configured.
+ *
+ * Matches are leftmost-longest and never overlap, e.g., given the tokens "&lt;agent&gt;" and "&lt;agent&gt;_1",
+ * the text "&lt;agent&gt;_1" is matched as the latter.
+ */
+class AddedTokensMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_TOKEN = -1;
+
+    // Per node: outgoing transitions, failure link, length and token of the pattern ending at that node (if any)
+    // and the closest node on the failure chain that ends a pattern (dictionary link).
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failureLinks = new ArrayList<>();
+    private final List<Integer> dictionaryLinks = new ArrayList<>();
+    private final List<Integer> patternLengths = new ArrayList<>();
+    private final List<Long> tokens = new ArrayList<>();
+
+    /**
+     * @param addedTokens map of the added token's text to its token id. Texts must not be empty.
+     */
+    AddedTokensMatcher(@NonNull final Map<String, Long> addedTokens) {
+        newNode();
+        addedTokens.forEach(this::addPattern);
+        buildLinks();
+    }
+
+    /**
+     * @return true if no added tokens were configured, in which case {@link #findMatches(String)} is always empty
+     */
+    public boolean isEmpty() {
+        return transitions.get(ROOT).isEmpty();
+    }
+
+    /**
+     * Scans the given sentence for added tokens.
+     *
+     * @param sentence text to scan
+     * @return non overlapping matches ordered by their position in the sentence
+     */
+    public List<Match> findMatches(@NonNull final String sentence) {
+        if (isEmpty() || sentence.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // For every start position keep the node of the longest pattern starting there
+        final int[] longestNodeAtStart = new int[sentence.length()];
+        boolean found = false;
+        int node = ROOT;
+        for (int idx = 0; idx < sentence.length(); idx++) {
+            node = nextState(node, sentence.charAt(idx));
+            int outputNode = patternLengths.get(node) > 0 ? node : dictionaryLinks.get(node);
+            while (outputNode != ROOT) {
+                final int start = idx - patternLengths.get(outputNode) + 1;
+                final int current = longestNodeAtStart[start];
+                if (current == ROOT || patternLengths.get(current) < patternLengths.get(outputNode)) {
+                    longestNodeAtStart[start] = outputNode;
+                }
+                found = true;
+                outputNode = dictionaryLinks.get(outputNode);
+            }
+        }
+
+        if (!found) {
+            return Collections.emptyList();
+        }
+
+        final List<Match> matches = new ArrayList<>();
+        int idx = 0;
+        while (idx < longestNodeAtStart.length) {
+            final int matchNode = longestNodeAtStart[idx];
+            if (matchNode == ROOT) {
+                idx++;
+            } else {
+                final int end = idx + patternLengths.get(matchNode);
+                matches.add(new Match(idx, end, tokens.get(matchNode)));
+                idx = end;
+            }
+        }
+        return matches;
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        failureLinks.add(ROOT);
+        dictionaryLinks.add(ROOT);
+        patternLengths.add(0);
+        tokens.add((long) NO_TOKEN);
+        return transitions.size() - 1;
+    }
+
+    private void addPattern(@NonNull final String pattern, @NonNull final Long token) {
+        checkArgument(!pattern.isEmpty(), "added token must not be empty");
+        int node = ROOT;
+        for (int idx = 0; idx < pattern.length(); idx++) {
+            final Integer next = transitions.get(node).get(pattern.charAt(idx));
+            if (next == null) {
+                final int created = newNode();
+                transitions.get(node).put(pattern.charAt(idx), created);
+                node = created;
+            } else {
+                node = next;
+            }
+        }
+        patternLengths.set(node, pattern.length());
+        tokens.set(node, token);
+    }
+
+    /**
+     * Breadth first traversal setting failure links (longest proper suffix that is also a prefix in the trie)
+     * and dictionary links (longest proper suffix that is a whole pattern).
+     */
+    private void buildLinks() {
+        final Queue<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(node).entrySet()) {
+                final int child = edge.getValue();
+                final int failure = node == ROOT ? ROOT : nextState(failureLinks.get(node), edge.getKey());
+                failureLinks.set(child, failure);
+                dictionaryLinks.set(child, patternLengths.get(failure) > 0 ? failure : dictionaryLinks.get(failure));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int nextState(int node, final char ch) {
+        while (true) {
+            final Integer next = transitions.get(node).get(ch);
+            if (next != null) {
+                return next;
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = failureLinks.get(node);
+        }
+    }
+
+    /**
+     * An added token found in a sentence, spanning [start, end).
+     */
+    static class Match {
+        private final int start;
+        private final int end;
+        private final long token;
+
+        Match(final int start, final int end, final long token) {
+            this.start = start;
+            this.end = end;
+            this.token = token;
+        }
+
+        public int getStart() {
+            return this.start;
+        }
+
+        public int getEnd() {
+            return this.end;
+        }
+
+        public long getToken() {
+            return this.token;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.genesys.roberta.tokenizer;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import lombok.NonNull;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A RoBERTa tokenizer that caches the tokens of whole input sentences.
+ * Useful when a large share of the inputs are exact repeats, e.g., IVR menu phrases, canned responses, "yes" or "no".
+ *
+ * The cache is bounded by the estimated memory of its entries (sentence and tokens) and entries expire after not being
+ * accessed for a given duration. Reads are lock free and writes are striped, so it is safe under high concurrency.
+ * Every call returns its own copy of the tokens, so callers may modify the returned array.
+ */
+public class CachedRobertaTokenizer implements Tokenizer {
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT_BYTES = 64L * 1024 * 1024;
+    public static final Duration DEFAULT_EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+    // Rough memory estimation of a cache entry, see weigh()
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int ARRAY_OVERHEAD_BYTES = 16;
+
+    private final RobertaTokenizer robertaTokenizer;
+    private final LoadingCache<String, long[]> cache;
+
+    /**
+     * Caches up to {@link #DEFAULT_MAXIMUM_WEIGHT_BYTES} of sentences and tokens, entries expire after not being
+     * accessed for {@link #DEFAULT_EXPIRE_AFTER_ACCESS}.
+     *
+     * @param robertaTokenizer tokenizer used on cache misses
+     */
+    public CachedRobertaTokenizer(@NonNull final RobertaTokenizer robertaTokenizer) {
+        this(robertaTokenizer, DEFAULT_MAXIMUM_WEIGHT_BYTES, DEFAULT_EXPIRE_AFTER_ACCESS);
+    }
+
+    /**
+     * @param robertaTokenizer tokenizer used on cache misses
+     * @param maximumWeightBytes estimated memory, in bytes, of all cached sentences and their tokens
+     * @param expireAfterAccess entries not accessed for this duration are removed
+     */
+    public CachedRobertaTokenizer(@NonNull final RobertaTokenizer robertaTokenizer, final long maximumWeightBytes,
+                                  @NonNull final Duration expireAfterAccess) {
+        this(robertaTokenizer, maximumWeightBytes, expireAfterAccess, Ticker.systemTicker());
+    }
+
+    CachedRobertaTokenizer(@NonNull final RobertaTokenizer robertaTokenizer, final long maximumWeightBytes,
+                           @NonNull final Duration expireAfterAccess, @NonNull final Ticker ticker) {
+        checkArgument(maximumWeightBytes >= 0, "maximum weight must not be negative");
+        checkArgument(!expireAfterAccess.isNegative(), "expire after access duration must not be negative");
+        this.robertaTokenizer = robertaTokenizer;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher(CachedRobertaTokenizer::weigh)
+                .expireAfterAccess(expireAfterAccess)
+                .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                .ticker(ticker)
+                .recordStats()
+                .build(CacheLoader.from(robertaTokenizer::tokenize));
+    }
+
+    /**
+     * Returns the cached tokens of the given sentence, tokenizing it on a cache miss.
+     *
+     * @param sentence a word or more divided by space
+     * @return a copy of the tokens (long) values
+     */
+    @Override
+    public long[] tokenize(@NonNull final String sentence) {
+        return cache.getUnchecked(sentence).clone();
+    }
+
+    /**
+     * @return hit, miss, load and eviction statistics of the cache, e.g., to size it by its hit rate
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return approximate number of cached sentences
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached sentences
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public RobertaTokenizer getRobertaTokenizer() {
+        return robertaTokenizer;
+    }
+
+    private static int weigh(final String sentence, final long[] tokens) {
+        final long weight = ENTRY_OVERHEAD_BYTES + STRING_OVERHEAD_BYTES + (long) Character.BYTES * sentence.length()
+                + ARRAY_OVERHEAD_BYTES + (long) Long.BYTES * tokens.length;
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+}
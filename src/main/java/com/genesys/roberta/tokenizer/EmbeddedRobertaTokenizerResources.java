@@ -0,0 +1,34 @@
+package com.genesys.roberta.tokenizer;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Holds the compiled resources found on the classpath at {@link RobertaTokenizerResourcesCompiler#DEFAULT_RESOURCE_NAME}.
+ *
+ * The resources are loaded once, when this class is initialized. The jar's native-image configuration initializes this
+ * class at build time, so GraalVM native images start with the tables already in the image heap.
+ */
+public final class EmbeddedRobertaTokenizerResources {
+
+    private static final RobertaTokenizerResources RESOURCES = load();
+
+    private EmbeddedRobertaTokenizerResources() {
+    }
+
+    /**
+     * @return the resources embedded in the classpath
+     */
+    public static RobertaTokenizerResources get() {
+        checkState(RESOURCES != null, String.format("compiled resources for Roberta: [ %s ] were not found on the classpath",
+                RobertaTokenizerResourcesCompiler.DEFAULT_RESOURCE_NAME));
+        return RESOURCES;
+    }
+
+    private static RobertaTokenizerResources load() {
+        if (EmbeddedRobertaTokenizerResources.class.getClassLoader()
+                .getResource(RobertaTokenizerResourcesCompiler.DEFAULT_RESOURCE_NAME) == null) {
+            return null;
+        }
+        return RobertaTokenizerResources.fromClasspath(RobertaTokenizerResourcesCompiler.DEFAULT_RESOURCE_NAME);
+    }
+}
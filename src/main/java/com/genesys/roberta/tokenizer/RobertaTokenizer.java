@@ -10,9 +10,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.LongStream;
 
-import static java.util.stream.LongStream.concat;
-import static java.util.stream.LongStream.of;
-
 /**
  * Tokenizer used for the RoBERTa model.
  * Encode sentences to integer tokens.
@@ -29,6 +26,9 @@ public class RobertaTokenizer implements Tokenizer {
     public static final long DEFAULT_SEP_TOKEN = 2;
     public static final long DEFAULT_UNK_TOKEN = 3;
 
+    // true if the JVM runs with "--add-modules jdk.incubator.vector". Checked without loading any of the module's classes
+    static final boolean VECTOR_API_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
     //splits a given sentence by space in to words or sub-words
     private static final Pattern PATTERN = Pattern
             .compile("'s|'t|'re|'ve|'m|'ll|'d| ?\\p{L}+| ?\\p{N}+| ?[^\\s\\p{L}\\p{N}]+|\\s+(?!\\S)|\\s+");
@@ -40,6 +40,7 @@ public class RobertaTokenizer implements Tokenizer {
 
     private final RobertaTokenizerResources robertaResources;
     private final BytePairEncoder bytePairEncoder;
+    private final VectorizedAsciiEncoder vectorizedAsciiEncoder; // null when the Vector API is not used
 
     /**
      * Constructs a RoBERTa tokenizer, using byte-level Byte-Pair-Encoding.
@@ -60,11 +61,20 @@ public class RobertaTokenizer implements Tokenizer {
      * @param clsToken Classification token
      * @param sepToken Separator token
      * @param unkToken Unknown token
+     *
+     * Note that ASCII text is pre-tokenized using the Vector API when the JVM runs with
+     * "--add-modules jdk.incubator.vector", otherwise (or for non-ASCII text) the regular path is used.
      */
     public RobertaTokenizer(@NonNull final RobertaTokenizerResources robertaTokenizerResources, final long clsToken,
                             final long sepToken, final long unkToken) {
+        this(robertaTokenizerResources, clsToken, sepToken, unkToken, VECTOR_API_AVAILABLE);
+    }
+
+    RobertaTokenizer(@NonNull final RobertaTokenizerResources robertaTokenizerResources, final long clsToken,
+                     final long sepToken, final long unkToken, final boolean useVectorApi) {
         this.robertaResources = robertaTokenizerResources;
         this.bytePairEncoder = new BytePairEncoder();
+        this.vectorizedAsciiEncoder = useVectorApi ? new VectorizedAsciiEncoder(robertaTokenizerResources) : null;
         this.clsToken = clsToken;
         this.sepToken = sepToken;
         this.unkToken = unkToken;
@@ -72,15 +82,60 @@ public class RobertaTokenizer implements Tokenizer {
 
     /**
      * Encodes the given word into a list of tokens (long numbers) using Byte Level Byte-Pair-Encoding.
+     * Added tokens (see {@link RobertaTokenizerResources}) are mapped directly to their ids, only the text between them
+     * is pre-tokenized and encoded.
      *
      * @param sentence a word or more divided by space
      * @return an array of tokens (long) values
      */
     @Override
     public long[] tokenize(@NonNull final String sentence) {
+        LongStream.Builder outputTokens = LongStream.builder().add(clsToken); // adding BOS
+        int segmentStart = 0;
+
+        for (AddedTokensMatcher.Match match : robertaResources.findAddedTokens(sentence)) {
+            encodeSegment(sentence.substring(segmentStart, match.getStart())).forEach(outputTokens);
+            outputTokens.add(match.getToken());
+            segmentStart = match.getEnd();
+        }
+        encodeSegment(sentence.substring(segmentStart)).forEach(outputTokens);
+
+        return outputTokens.add(sepToken).build().toArray(); // adding EOS
+    }
+
+    /**
+     * Pre-tokenizes the given segment, maps its bytes to the base vocabulary and applies BPE on each pre-token
+     *
+     * @param segment part of the sentence that holds no added tokens
+     * @return the tokens of the segment
+     */
+    private LongStream encodeSegment(@NonNull final String segment) {
+        return encodePreTokens(segment).stream()
+                // returns list of strings ready for vocabulary mapping
+                .map(encodedStr -> bytePairEncoder.encode(encodedStr, robertaResources))
+                // mapping each word in the given lists to a Long token from the vocabulary
+                .flatMapToLong(encodedStrList -> encodedStrList.stream()
+                        .mapToLong(word -> this.robertaResources.encodeWord(word, unkToken)));
+    }
+
+    /**
+     * Splits the given segment into pre-tokens (words or sub-words) and maps the bytes of each one of them to the
+     * base vocabulary symbols. Pure ASCII segments go through the Vector API path when it is enabled.
+     *
+     * @param segment part of the sentence that holds no added tokens
+     * @return the encoded pre-tokens, ready for BPE
+     */
+    List<String> encodePreTokens(@NonNull final String segment) {
+        if (vectorizedAsciiEncoder != null) {
+            final List<String> encodedStrings = vectorizedAsciiEncoder.encode(segment);
+            if (encodedStrings != null) {
+                return encodedStrings;
+            }
+        }
+
         List<String> encodedStrings = new ArrayList<>();
 
-        Matcher matcher = PATTERN.matcher(sentence);
+        Matcher matcher = PATTERN.matcher(segment);
         while (matcher.find()) {
             String matchedSequence = matcher.group();
             val matchedSequenceEncoded = new StringBuilder();
@@ -93,15 +148,7 @@ public class RobertaTokenizer implements Tokenizer {
             encodedStrings.add(matchedSequenceEncoded.toString());
         }
 
-        LongStream outputTokens = encodedStrings.stream()
-                // returns list of strings ready for vocabulary mapping
-                .map(encodedStr -> bytePairEncoder.encode(encodedStr, robertaResources))
-                // mapping each word in the given lists to a Long token from the vocabulary
-                .flatMapToLong(encodedStrList -> encodedStrList.stream()
-                        .mapToLong(word -> this.robertaResources.encodeWord(word, unkToken)));
-
-        outputTokens = concat(of(clsToken), outputTokens); // adding BOS
-        return concat(outputTokens, of(sepToken)).toArray(); // adding EOS
+        return encodedStrings;
     }
 
     public long getClsToken() {
@@ -4,8 +4,15 @@ import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import lombok.NonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -19,30 +26,185 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
 
 /**
  * Holds the vocabularies and the merges file used to encode and tokenize the inputs.
+ *
+ * Resources are loaded either from a directory holding the original files or from a compiled binary created by
+ * {@link RobertaTokenizerResourcesCompiler}, which can be embedded in a jar and read from the classpath.
  */
 public class RobertaTokenizerResources {
 
     private static final String BASE_VOCABULARY_FILE_NAME = "base_vocabulary.json";
     private static final String VOCABULARY_FILE_NAME = "vocabulary.json";
     private static final String MERGES_FILE_NAME = "merges.txt";
+    private static final String ADDED_TOKENS_FILE_NAME = "added_tokens.json";
+
+    // Compiled binary format
+    private static final int BINARY_MAGIC = 0x52544B42; // "RTKB"
+    private static final int BINARY_VERSION = 1;
 
     private final Map<Integer, String> baseVocabularyMap;
     private final Map<String, Long> vocabularyMap;
     private final Map<BiGram, Integer> bpeRanks;
+    private final Map<String, Long> addedTokens;
+    private final AddedTokensMatcher addedTokensMatcher;
 
     /**
      * @param resourcesPath expecting this path to hold (with their names):
      *  Base Vocabulary - base_vocabulary.txt
      *  Vocabulary - vocabulary.json
      *  Merges - merges.txt
+     *  Added Tokens (optional) - added_tokens.json
      */
     public RobertaTokenizerResources(@NonNull final String resourcesPath) {
+        this(resourcesPath, Collections.emptyMap());
+    }
+
+    /**
+     * @param resourcesPath expecting this path to hold (with their names):
+     *  Base Vocabulary - base_vocabulary.txt
+     *  Vocabulary - vocabulary.json
+     *  Merges - merges.txt
+     *  Added Tokens (optional) - added_tokens.json
+     * @param addedTokens additional tokens (e.g., "&lt;mask&gt;") mapped to their token ids. These are never split by
+     *                    the BPE and take precedence over entries with the same text in added_tokens.json
+     */
+    public RobertaTokenizerResources(@NonNull final String resourcesPath, @NonNull final Map<String, Long> addedTokens) {
         this.baseVocabularyMap = loadBaseVocabulary(resourcesPath);
         this.vocabularyMap = loadVocabulary(resourcesPath);
         this.bpeRanks = loadMergesFile(resourcesPath);
+        final Map<String, Long> allAddedTokens = new HashMap<>(loadAddedTokens(resourcesPath));
+        allAddedTokens.putAll(addedTokens);
+        this.addedTokens = Collections.unmodifiableMap(allAddedTokens);
+        this.addedTokensMatcher = new AddedTokensMatcher(this.addedTokens);
+    }
+
+    private RobertaTokenizerResources(@NonNull final Map<Integer, String> baseVocabularyMap,
+                                      @NonNull final Map<String, Long> vocabularyMap,
+                                      @NonNull final Map<BiGram, Integer> bpeRanks,
+                                      @NonNull final Map<String, Long> addedTokens) {
+        this.baseVocabularyMap = baseVocabularyMap;
+        this.vocabularyMap = vocabularyMap;
+        this.bpeRanks = bpeRanks;
+        this.addedTokens = addedTokens;
+        this.addedTokensMatcher = new AddedTokensMatcher(addedTokens);
+    }
+
+    /**
+     * Loads resources compiled by {@link RobertaTokenizerResourcesCompiler} from the classpath,
+     * e.g., when they are packaged inside a jar.
+     *
+     * @param resourceName classpath resource name, e.g., "roberta-tokenizer/resources.rtb"
+     * @return the loaded resources
+     */
+    public static RobertaTokenizerResources fromClasspath(@NonNull final String resourceName) {
+        final URL url = RobertaTokenizerResources.class.getClassLoader().getResource(resourceName);
+        checkState(url != null, String.format("compiled resources for Roberta: [ %s ] were not found on the classpath",
+                resourceName));
+        return fromBinary(url);
+    }
+
+    /**
+     * Loads resources compiled by {@link RobertaTokenizerResourcesCompiler} from the given URL.
+     *
+     * @param url location of the compiled resources
+     * @return the loaded resources
+     */
+    public static RobertaTokenizerResources fromBinary(@NonNull final URL url) {
+        try (InputStream inputStream = url.openStream()) {
+            return fromBinary(inputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format(
+                    "Failed to load compiled resources for Roberta from [ %s ]", url), e);
+        }
+    }
+
+    /**
+     * Loads resources compiled by {@link RobertaTokenizerResourcesCompiler} from the given stream.
+     * The stream is not closed by this method.
+     *
+     * @param inputStream stream of the compiled resources
+     * @return the loaded resources
+     */
+    public static RobertaTokenizerResources fromBinary(@NonNull final InputStream inputStream) {
+        try {
+            final DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+            checkState(input.readInt() == BINARY_MAGIC, "provided stream does not hold compiled Roberta resources");
+            final int version = input.readInt();
+            checkState(version == BINARY_VERSION, String.format(
+                    "Unsupported compiled resources version: [%d], expected: [%d]", version, BINARY_VERSION));
+
+            int size = input.readInt();
+            final Map<Integer, String> baseVocabMap = newHashMapWithExpectedSize(size);
+            for (int idx = 0; idx < size; idx++) {
+                baseVocabMap.put(input.readInt(), input.readUTF());
+            }
+
+            size = input.readInt();
+            final Map<String, Long> vocabMap = newHashMapWithExpectedSize(size);
+            for (int idx = 0; idx < size; idx++) {
+                vocabMap.put(input.readUTF(), input.readLong());
+            }
+
+            size = input.readInt();
+            final Map<BiGram, Integer> ranks = newHashMapWithExpectedSize(size);
+            for (int idx = 0; idx < size; idx++) {
+                ranks.put(BiGram.of(input.readUTF(), input.readUTF()), input.readInt());
+            }
+
+            size = input.readInt();
+            final Map<String, Long> addedTokensMap = newHashMapWithExpectedSize(size);
+            for (int idx = 0; idx < size; idx++) {
+                addedTokensMap.put(input.readUTF(), input.readLong());
+            }
+
+            return new RobertaTokenizerResources(Collections.unmodifiableMap(baseVocabMap),
+                    Collections.unmodifiableMap(vocabMap), Collections.unmodifiableMap(ranks),
+                    Collections.unmodifiableMap(addedTokensMap));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load compiled resources for Roberta", e);
+        }
+    }
+
+    /**
+     * Writes these resources in the compiled binary format read by {@link #fromBinary(InputStream)}.
+     * The stream is not closed by this method.
+     *
+     * @param outputStream stream to write to
+     * @throws IOException if writing fails
+     */
+    void writeBinary(@NonNull final OutputStream outputStream) throws IOException {
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(BINARY_MAGIC);
+        output.writeInt(BINARY_VERSION);
+
+        output.writeInt(baseVocabularyMap.size());
+        for (Map.Entry<Integer, String> entry : baseVocabularyMap.entrySet()) {
+            output.writeInt(entry.getKey());
+            output.writeUTF(entry.getValue());
+        }
+
+        output.writeInt(vocabularyMap.size());
+        for (Map.Entry<String, Long> entry : vocabularyMap.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeLong(entry.getValue());
+        }
+
+        output.writeInt(bpeRanks.size());
+        for (Map.Entry<BiGram, Integer> entry : bpeRanks.entrySet()) {
+            output.writeUTF(entry.getKey().getLeft());
+            output.writeUTF(entry.getKey().getRight());
+            output.writeInt(entry.getValue());
+        }
+
+        output.writeInt(addedTokens.size());
+        for (Map.Entry<String, Long> entry : addedTokens.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeLong(entry.getValue());
+        }
+        output.flush();
     }
 
     private Map<Integer, String> loadBaseVocabulary(@NonNull final String resourcesPath) {
@@ -98,6 +260,27 @@ public class RobertaTokenizerResources {
         }
     }
 
+    /**
+     * Added tokens file is optional, in case it doesn't exist no added tokens are loaded from the resources path.
+     *
+     * @param resourcesPath resources dir path
+     * @return map of added token text to its token id
+     */
+    private Map<String, Long> loadAddedTokens(@NonNull final String resourcesPath) {
+        final Path addedTokensPath = Paths.get(resourcesPath, ADDED_TOKENS_FILE_NAME);
+        if (!Files.exists(addedTokensPath)) {
+            return Collections.emptyMap();
+        }
+        try {
+            final Map<String, Long> addedTokensMap = new Gson()
+                    .fromJson(Files.readString(addedTokensPath), new TypeToken<HashMap<String, Long>>(){}.getType());
+            return Collections.unmodifiableMap(addedTokensMap);
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format(
+                    "Failed to load added tokens for Roberta from file path [ %s ]", addedTokensPath), e);
+        }
+    }
+
     /**
      * Encoding the given key to a mapped String which represents a character from the base vocabulary.
      * Since the input is of type byte values we except only values [-127, 128].
@@ -134,6 +317,15 @@ public class RobertaTokenizerResources {
         return bpeRanks.getOrDefault(biGram, defaultValue);
     }
 
+    /**
+     * Finds all added tokens in the given sentence in a single pass
+     * @param sentence raw input sentence
+     * @return non overlapping added tokens matches, ordered by their position in the sentence
+     */
+    List<AddedTokensMatcher.Match> findAddedTokens(@NonNull final String sentence) {
+        return addedTokensMatcher.findMatches(sentence);
+    }
+
     /**
      * Since we use HuggingFace tokenizers, the merges file output might have a comment in the head of the file like:
      * "#version: 0.2 - Trained by `huggingface/tokenizers`"
@@ -0,0 +1,58 @@
+package com.genesys.roberta.tokenizer;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Compiles the resources directory (base_vocabulary.json, vocabulary.json, merges.txt and the optional
+ * added_tokens.json) into a single compact binary, so it can be packaged inside a jar and loaded with
+ * {@link RobertaTokenizerResources#fromClasspath(String)} without parsing JSON at runtime.
+ *
+ * Meant to run as a build step, e.g., with the exec-maven-plugin:
+ * java com.genesys.roberta.tokenizer.RobertaTokenizerResourcesCompiler &lt;resources dir&gt; &lt;output file&gt;
+ */
+public final class RobertaTokenizerResourcesCompiler {
+
+    /**
+     * Default classpath location of the compiled resources, used by {@link EmbeddedRobertaTokenizerResources}
+     */
+    public static final String DEFAULT_RESOURCE_NAME = "roberta-tokenizer/resources.rtb";
+
+    private RobertaTokenizerResourcesCompiler() {
+    }
+
+    /**
+     * @param args resources dir path and output file path
+     */
+    public static void main(final String[] args) {
+        checkArgument(args.length == 2, String.format("Usage: %s <resources dir> <output file>",
+                RobertaTokenizerResourcesCompiler.class.getName()));
+        compile(args[0], Paths.get(args[1]));
+    }
+
+    /**
+     * @param resourcesPath dir holding the resources files, see {@link RobertaTokenizerResources}
+     * @param outputPath compiled binary file to create, parent directories are created if needed
+     */
+    public static void compile(@NonNull final String resourcesPath, @NonNull final Path outputPath) {
+        final RobertaTokenizerResources resources = new RobertaTokenizerResources(resourcesPath);
+        try {
+            if (outputPath.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(outputPath.toAbsolutePath().getParent());
+            }
+            try (OutputStream outputStream = Files.newOutputStream(outputPath)) {
+                resources.writeBinary(outputStream);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format(
+                    "Failed to write compiled resources for Roberta to [ %s ]", outputPath), e);
+        }
+    }
+}
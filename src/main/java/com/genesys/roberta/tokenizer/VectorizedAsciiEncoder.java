@@ -0,0 +1,218 @@
+package com.genesys.roberta.tokenizer;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vector API (jdk.incubator.vector) accelerated pre-tokenization and byte mapping for pure ASCII text.
+ *
+ * The characters of the text are classified in bulk as ASCII letter, digit, whitespace or other, the pre-token
+ * boundaries are then found from these classes exactly as RobertaTokenizer's regex pattern would find them.
+ * Since every ASCII character is encoded as a single UTF-8 byte, the characters are translated in bulk to their base
+ * vocabulary symbols as well.
+ *
+ * Text holding any non-ASCII character is not handled and should go through the regular (scalar) path.
+ * This class must only be loaded when the jdk.incubator.vector module is available,
+ * see {@link RobertaTokenizer#VECTOR_API_AVAILABLE}.
+ */
+class VectorizedAsciiEncoder {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int ASCII_SIZE = 128;
+
+    // Character classes, matching \p{L}, \p{N}, \s and [^\s\p{L}\p{N}] of the pre-tokenization pattern for ASCII
+    private static final short LETTER = 0;
+    private static final short DIGIT = 1;
+    private static final short WHITESPACE = 2;
+    private static final short OTHER = 3;
+
+    private final char[] asciiSymbols = new char[ASCII_SIZE];
+    private final boolean singleCharSymbols;
+    // Range of ASCII characters that are mapped to themselves by the base vocabulary, e.g., [33, 126] for RoBERTa
+    private final short identityLow;
+    private final short identityHigh;
+
+    /**
+     * @param robertaTokenizerResources holds the base vocabulary used to map the bytes
+     */
+    VectorizedAsciiEncoder(@NonNull final RobertaTokenizerResources robertaTokenizerResources) {
+        boolean allSingleChars = true;
+        for (int ch = 0; ch < ASCII_SIZE; ch++) {
+            final String symbol = robertaTokenizerResources.encodeByte((byte) ch);
+            if (symbol == null || symbol.length() != 1) {
+                allSingleChars = false;
+                break;
+            }
+            asciiSymbols[ch] = symbol.charAt(0);
+        }
+        this.singleCharSymbols = allSingleChars;
+
+        int bestLow = 1;
+        int bestHigh = 0;
+        int ch = 0;
+        while (allSingleChars && ch < ASCII_SIZE) {
+            if (asciiSymbols[ch] != ch) {
+                ch++;
+                continue;
+            }
+            final int low = ch;
+            while (ch < ASCII_SIZE && asciiSymbols[ch] == ch) {
+                ch++;
+            }
+            if (ch - low > bestHigh - bestLow + 1) {
+                bestLow = low;
+                bestHigh = ch - 1;
+            }
+        }
+        this.identityLow = (short) bestLow;
+        this.identityHigh = (short) bestHigh;
+    }
+
+    /**
+     * Splits the given text into pre-tokens and maps each one of them to base vocabulary symbols.
+     *
+     * @param text text to encode
+     * @return the encoded pre-tokens, ready for BPE, or null if the text is not pure ASCII
+     * (or the base vocabulary does not map every ASCII byte to a single character)
+     */
+    public List<String> encode(@NonNull final String text) {
+        if (!singleCharSymbols) {
+            return null;
+        }
+
+        final char[] chars = text.toCharArray();
+        final short[] classes = new short[chars.length];
+        final char[] symbols = new char[chars.length];
+        if (!classifyAndMap(chars, classes, symbols)) {
+            return null;
+        }
+
+        final List<String> preTokens = new ArrayList<>();
+        int start = 0;
+        while (start < chars.length) {
+            final int end = nextPreTokenEnd(chars, classes, start);
+            preTokens.add(new String(symbols, start, end - start));
+            start = end;
+        }
+        return preTokens;
+    }
+
+    /**
+     * Classifies every character and maps it to its base vocabulary symbol.
+     *
+     * @return false if a non-ASCII character was found, in which case the output arrays are incomplete
+     */
+    private boolean classifyAndMap(final char[] chars, final short[] classes, final char[] symbols) {
+        final int loopBound = SPECIES.loopBound(chars.length);
+        int idx = 0;
+        for (; idx < loopBound; idx += SPECIES.length()) {
+            final ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, idx);
+            if (vector.and((short) ~0x7F).compare(VectorOperators.NE, 0).anyTrue()) {
+                return false;
+            }
+
+            final ShortVector lowerCase = vector.or((short) 0x20);
+            final VectorMask<Short> letters = lowerCase.compare(VectorOperators.GE, (short) 'a')
+                    .and(lowerCase.compare(VectorOperators.LE, (short) 'z'));
+            final VectorMask<Short> digits = vector.compare(VectorOperators.GE, (short) '0')
+                    .and(vector.compare(VectorOperators.LE, (short) '9'));
+            // \s is [ \t\n\x0B\f\r]
+            final VectorMask<Short> whitespaces = vector.compare(VectorOperators.EQ, (short) ' ')
+                    .or(vector.compare(VectorOperators.GE, (short) '\t')
+                            .and(vector.compare(VectorOperators.LE, (short) '\r')));
+            ShortVector.broadcast(SPECIES, OTHER)
+                    .blend(LETTER, letters)
+                    .blend(DIGIT, digits)
+                    .blend(WHITESPACE, whitespaces)
+                    .intoArray(classes, idx);
+
+            // Copy the characters the base vocabulary maps to themselves, then patch the rest
+            vector.intoCharArray(symbols, idx);
+            final VectorMask<Short> identities = vector.compare(VectorOperators.GE, identityLow)
+                    .and(vector.compare(VectorOperators.LE, identityHigh));
+            long nonIdentityLanes = identities.not().toLong();
+            while (nonIdentityLanes != 0) {
+                final int lane = idx + Long.numberOfTrailingZeros(nonIdentityLanes);
+                symbols[lane] = asciiSymbols[chars[lane]];
+                nonIdentityLanes &= nonIdentityLanes - 1;
+            }
+        }
+
+        for (; idx < chars.length; idx++) {
+            final char ch = chars[idx];
+            if (ch >= ASCII_SIZE) {
+                return false;
+            }
+            classes[idx] = classify(ch);
+            symbols[idx] = asciiSymbols[ch];
+        }
+        return true;
+    }
+
+    private static short classify(final char ch) {
+        if ((ch | 0x20) >= 'a' && (ch | 0x20) <= 'z') {
+            return LETTER;
+        } else if (ch >= '0' && ch <= '9') {
+            return DIGIT;
+        } else if (ch == ' ' || (ch >= '\t' && ch <= '\r')) {
+            return WHITESPACE;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Follows the alternatives of the pre-tokenization pattern in order:
+     * 's|'t|'re|'ve|'m|'ll|'d| ?\p{L}+| ?\p{N}+| ?[^\s\p{L}\p{N}]+|\s+(?!\S)|\s+
+     *
+     * @param start index of the first character of the pre-token
+     * @return index right after the last character of the pre-token
+     */
+    private static int nextPreTokenEnd(final char[] chars, final short[] classes, final int start) {
+        final int contractionLength = contractionLength(chars, start);
+        if (contractionLength > 0) {
+            return start + contractionLength;
+        }
+
+        // An optional single space followed by a run of letters, digits or other characters
+        final int runStart = chars[start] == ' ' && start + 1 < chars.length && classes[start + 1] != WHITESPACE
+                ? start + 1 : start;
+        final short runClass = classes[runStart];
+        final int runEnd = runEnd(classes, runStart, runClass);
+        if (runClass != WHITESPACE || runEnd == chars.length || runEnd - start == 1) {
+            return runEnd;
+        }
+        // Whitespaces followed by a non whitespace, the last one is left to prefix the next pre-token
+        return runEnd - 1;
+    }
+
+    private static int contractionLength(final char[] chars, final int start) {
+        if (chars[start] != '\'' || start + 1 >= chars.length) {
+            return 0;
+        }
+        final char first = chars[start + 1];
+        if (first == 's' || first == 't' || first == 'm' || first == 'd') {
+            return 2;
+        }
+        if (start + 2 < chars.length) {
+            final char second = chars[start + 2];
+            if ((first == 'r' && second == 'e') || (first == 'v' && second == 'e') || (first == 'l' && second == 'l')) {
+                return 3;
+            }
+        }
+        return 0;
+    }
+
+    private static int runEnd(final short[] classes, final int start, final short runClass) {
+        int end = start;
+        while (end < classes.length && classes[end] == runClass) {
+            end++;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,79 @@
+package com.genesys.roberta.tokenizer;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AddedTokensMatcherTest {
+
+    private AddedTokensMatcher addedTokensMatcher;
+
+    @BeforeClass
+    public void setupBeforeClass() {
+        Map<String, Long> addedTokens = new HashMap<>() {{
+            put("<mask>", 1L);
+            put("<agent>", 2L);
+            put("<agent>_1", 3L);
+            put("ask", 4L);
+        }};
+        addedTokensMatcher = new AddedTokensMatcher(addedTokens);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void nullSentenceTest() {
+        addedTokensMatcher.findMatches(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void emptyAddedTokenTest() {
+        new AddedTokensMatcher(Collections.singletonMap("", 1L));
+    }
+
+    @Test
+    public void noAddedTokensTest() {
+        AddedTokensMatcher emptyMatcher = new AddedTokensMatcher(Collections.emptyMap());
+        Assert.assertTrue(emptyMatcher.isEmpty());
+        Assert.assertTrue(emptyMatcher.findMatches("hello <mask>").isEmpty());
+    }
+
+    @Test
+    public void noMatchTest() {
+        Assert.assertTrue(addedTokensMatcher.findMatches("hello world").isEmpty());
+    }
+
+    @Test
+    public void multipleMatchesTest() {
+        List<AddedTokensMatcher.Match> matches = addedTokensMatcher.findMatches("<agent> hi <mask>!");
+        Assert.assertEquals(matches.size(), 2);
+        assertMatch(matches.get(0), 0, 7, 2L);
+        assertMatch(matches.get(1), 11, 17, 1L);
+    }
+
+    @Test
+    public void longestMatchTest() {
+        List<AddedTokensMatcher.Match> matches = addedTokensMatcher.findMatches("<agent>_1<agent>_");
+        Assert.assertEquals(matches.size(), 2);
+        assertMatch(matches.get(0), 0, 9, 3L);
+        assertMatch(matches.get(1), 9, 16, 2L);
+    }
+
+    @Test
+    public void overlappingMatchesTest() {
+        // "ask" is contained in "<mask>", the leftmost match wins
+        List<AddedTokensMatcher.Match> matches = addedTokensMatcher.findMatches("<mask> task");
+        Assert.assertEquals(matches.size(), 2);
+        assertMatch(matches.get(0), 0, 6, 1L);
+        assertMatch(matches.get(1), 8, 11, 4L);
+    }
+
+    private static void assertMatch(AddedTokensMatcher.Match match, int start, int end, long token) {
+        Assert.assertEquals(match.getStart(), start);
+        Assert.assertEquals(match.getEnd(), end);
+        Assert.assertEquals(match.getToken(), token);
+    }
+}
@@ -0,0 +1,104 @@
+package com.genesys.roberta.tokenizer;
+
+import com.google.common.base.Ticker;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.genesys.roberta.tokenizer.utils.CommonTestUtils.getResourceAbsPath;
+
+public class CachedRobertaTokenizerTest {
+
+    private static final String VOCABULARY_BASE_DIR_PATH = getResourceAbsPath();
+    private RobertaTokenizer robertaTokenizer;
+    private CachedRobertaTokenizer cachedRobertaTokenizer;
+
+    @BeforeClass
+    public void initDataMembersBeforeClass() {
+        robertaTokenizer = new RobertaTokenizer(new RobertaTokenizerResources(VOCABULARY_BASE_DIR_PATH));
+    }
+
+    @BeforeMethod
+    public void initCacheBeforeMethod() {
+        cachedRobertaTokenizer = new CachedRobertaTokenizer(robertaTokenizer);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void nullRobertaTokenizer() {
+        new CachedRobertaTokenizer(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void nullSentence() {
+        cachedRobertaTokenizer.tokenize(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void negativeMaximumWeight() {
+        new CachedRobertaTokenizer(robertaTokenizer, -1, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void sameTokensAsRobertaTokenizer() {
+        String sentence = "lower newer";
+        Assert.assertEquals(cachedRobertaTokenizer.tokenize(sentence), robertaTokenizer.tokenize(sentence));
+        Assert.assertEquals(cachedRobertaTokenizer.tokenize(sentence), robertaTokenizer.tokenize(sentence));
+        Assert.assertEquals(cachedRobertaTokenizer.stats().missCount(), 1);
+        Assert.assertEquals(cachedRobertaTokenizer.stats().hitCount(), 1);
+    }
+
+    @Test
+    public void returnedTokensAreCopies() {
+        String sentence = "lower";
+        long[] firstTokens = cachedRobertaTokenizer.tokenize(sentence);
+        firstTokens[1] = -1;
+        Assert.assertEquals(cachedRobertaTokenizer.tokenize(sentence), robertaTokenizer.tokenize(sentence));
+    }
+
+    @Test
+    public void evictedByWeight() {
+        // Enough for a few short sentences only
+        CachedRobertaTokenizer smallCache = new CachedRobertaTokenizer(robertaTokenizer, 1024, Duration.ofMinutes(1));
+        IntStream.range(0, 100).forEach(idx -> smallCache.tokenize("lower " + idx));
+        Assert.assertTrue(smallCache.size() < 100);
+        Assert.assertTrue(smallCache.stats().evictionCount() > 0);
+    }
+
+    @Test
+    public void expiredAfterAccess() {
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        CachedRobertaTokenizer expiringCache = new CachedRobertaTokenizer(robertaTokenizer,
+                CachedRobertaTokenizer.DEFAULT_MAXIMUM_WEIGHT_BYTES, Duration.ofMinutes(1), ticker);
+        expiringCache.tokenize("lower");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        expiringCache.tokenize("lower");
+        Assert.assertEquals(expiringCache.stats().hitCount(), 1);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        expiringCache.tokenize("lower");
+        Assert.assertEquals(expiringCache.stats().missCount(), 2);
+    }
+
+    @Test
+    public void concurrentTokenize() {
+        String[] sentences = {"yes", "no", "agent please", "lower newer"};
+        IntStream.range(0, 10_000).parallel().forEach(idx -> {
+            String sentence = sentences[idx % sentences.length];
+            Assert.assertEquals(cachedRobertaTokenizer.tokenize(sentence), robertaTokenizer.tokenize(sentence));
+        });
+        Assert.assertEquals(cachedRobertaTokenizer.size(), sentences.length);
+        Assert.assertEquals(cachedRobertaTokenizer.stats().requestCount(), 10_000);
+        Assert.assertTrue(cachedRobertaTokenizer.stats().hitRate() > 0.99);
+    }
+}
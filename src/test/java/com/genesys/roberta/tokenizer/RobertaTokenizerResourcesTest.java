@@ -5,6 +5,14 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
 import static com.genesys.roberta.tokenizer.utils.CommonTestUtils.getResourceAbsPath;
 
 public class RobertaTokenizerResourcesTest {
@@ -65,10 +73,74 @@ public class RobertaTokenizerResourcesTest {
         Assert.assertEquals(actualRank, expectedRank);
     }
 
+    @Test
+    public void addedTokensLoadedFromFile() {
+        val matches = robertaTokenizerResources.findAddedTokens("er<mask>");
+        Assert.assertEquals(matches.size(), 1);
+        Assert.assertEquals(matches.get(0).getToken(), 23);
+    }
+
+    @Test
+    public void addedTokensOverrideFile() {
+        val resources = new RobertaTokenizerResources(VOCABULARY_BASE_DIR_PATH, Map.of("<mask>", 50L, "<pad>", 1L));
+        val matches = resources.findAddedTokens("<pad><mask>");
+        Assert.assertEquals(matches.size(), 2);
+        Assert.assertEquals(matches.get(0).getToken(), 1);
+        Assert.assertEquals(matches.get(1).getToken(), 50);
+    }
+
     @Test
     public void pairDoesNotExist() {
         BiGram bigram = BiGram.of("Zilpa", "Funnel");
         int actualRank = robertaTokenizerResources.getRankOrDefault(bigram, Integer.MAX_VALUE);
         Assert.assertEquals(actualRank, Integer.MAX_VALUE);
     }
+
+    @Test
+    public void compiledResourcesRoundTrip() throws IOException {
+        Path compiledPath = Files.createTempDirectory("roberta").resolve("resources.rtb");
+        RobertaTokenizerResourcesCompiler.compile(VOCABULARY_BASE_DIR_PATH, compiledPath);
+        try (InputStream inputStream = Files.newInputStream(compiledPath)) {
+            assertSameResources(RobertaTokenizerResources.fromBinary(inputStream));
+        }
+    }
+
+    @Test
+    public void compiledResourcesFromClasspath() {
+        // Compiled during the build by the exec-maven-plugin, see pom.xml
+        assertSameResources(RobertaTokenizerResources.fromClasspath(RobertaTokenizerResourcesCompiler.DEFAULT_RESOURCE_NAME));
+        assertSameResources(EmbeddedRobertaTokenizerResources.get());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void compiledResourcesNotOnClasspath() {
+        RobertaTokenizerResources.fromClasspath("dummy/resources.rtb");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void notCompiledResources() {
+        RobertaTokenizerResources.fromBinary(new ByteArrayInputStream("{\"l\": 4}".getBytes()));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void truncatedCompiledResources() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        robertaTokenizerResources.writeBinary(outputStream);
+        byte[] compiled = outputStream.toByteArray();
+        RobertaTokenizerResources.fromBinary(new ByteArrayInputStream(compiled, 0, compiled.length / 2));
+    }
+
+    private void assertSameResources(RobertaTokenizerResources compiledResources) {
+        for (int key = Byte.MIN_VALUE; key <= Byte.MAX_VALUE; key++) {
+            Assert.assertEquals(compiledResources.encodeByte((byte) key), robertaTokenizerResources.encodeByte((byte) key));
+        }
+        Assert.assertEquals(compiledResources.encodeWord("er", UNKNOWN_TOKEN).longValue(), 19);
+        Assert.assertEquals(compiledResources.encodeWord("Funnel", UNKNOWN_TOKEN).longValue(), UNKNOWN_TOKEN);
+        Assert.assertEquals(compiledResources.getRankOrDefault(BiGram.of("e", "r"), Integer.MAX_VALUE).intValue(), 3);
+        Assert.assertEquals(compiledResources.findAddedTokens("er<mask>").get(0).getToken(), 23);
+
+        String sentence = "<agent>lower<mask> newer, lowest wider";
+        Assert.assertEquals(new RobertaTokenizer(compiledResources).tokenize(sentence),
+                new RobertaTokenizer(robertaTokenizerResources).tokenize(sentence));
+    }
 }
@@ -71,6 +71,21 @@ public class RobertaTokenizerTest {
         Assert.assertEquals(actualTokens, expectedTokens);
     }
 
+    @Test
+    public void addedTokensAreNotSplit() {
+        String sentence = "<agent>lower<mask> newer<agent>_1";
+        long[] expectedTokens = {
+                clsToken,
+                24, // <agent>
+                4, 5, 6, 19, // lower
+                23, // <mask>
+                114, 13, 7, 6, 19, // newer
+                25, // <agent>_1
+                sepToken};
+        long[] actualTokens = robertaTokenizer.tokenize(sentence);
+        Assert.assertEquals(actualTokens, expectedTokens);
+    }
+
     @Test
     public void emptySentence() {
         long[] actualTokens = robertaTokenizer.tokenize("");
@@ -0,0 +1,88 @@
+package com.genesys.roberta.tokenizer;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static com.genesys.roberta.tokenizer.utils.CommonTestUtils.getResourceAbsPath;
+
+public class VectorizedAsciiEncoderTest {
+
+    private static final String VOCABULARY_BASE_DIR_PATH = getResourceAbsPath();
+    private static final String RANDOM_ALPHABET = "aZz09 \t\n\r\u000B\f'srevtmld!?.,-_@#\u0000\u001F\u007F";
+
+    private VectorizedAsciiEncoder vectorizedAsciiEncoder;
+    private RobertaTokenizer scalarTokenizer;
+    private RobertaTokenizer vectorTokenizer;
+
+    @BeforeClass
+    public void initDataMembersBeforeClass() {
+        Assert.assertTrue(RobertaTokenizer.VECTOR_API_AVAILABLE);
+        RobertaTokenizerResources robertaResources = new RobertaTokenizerResources(VOCABULARY_BASE_DIR_PATH);
+        vectorizedAsciiEncoder = new VectorizedAsciiEncoder(robertaResources);
+        scalarTokenizer = new RobertaTokenizer(robertaResources, RobertaTokenizer.DEFAULT_CLS_TOKEN,
+                RobertaTokenizer.DEFAULT_SEP_TOKEN, RobertaTokenizer.DEFAULT_UNK_TOKEN, false);
+        vectorTokenizer = new RobertaTokenizer(robertaResources, RobertaTokenizer.DEFAULT_CLS_TOKEN,
+                RobertaTokenizer.DEFAULT_SEP_TOKEN, RobertaTokenizer.DEFAULT_UNK_TOKEN, true);
+    }
+
+    @DataProvider
+    public Object[][] asciiSentences() {
+        return new Object[][] {
+                {""},
+                {"lower newer"},
+                {"I'm sure they'll say it's what we've done, isn't it? They'd re're 'r 'l"},
+                {"  leading and trailing spaces  "},
+                {"tabs\tand\t\tnew\nlines \n\r\n end"},
+                {"numbers 123 4567,89 and punctuation!!! ...?! (a) [b] {c} 'quoted'"},
+                {"a"},
+                {" "},
+                {"\t"},
+                {"'"},
+                {"control\u0000chars\u001F and delete\u007F"},
+                {"https://www.google.com/search?as_q=you+have+to+write+a+really+really+long+search+to+get+to+2000"},
+        };
+    }
+
+    @Test(dataProvider = "asciiSentences")
+    public void asciiEqualsScalar(String sentence) {
+        Assert.assertNotNull(vectorizedAsciiEncoder.encode(sentence));
+        Assert.assertEquals(vectorTokenizer.encodePreTokens(sentence), scalarTokenizer.encodePreTokens(sentence));
+        Assert.assertEquals(vectorTokenizer.tokenize(sentence), scalarTokenizer.tokenize(sentence));
+    }
+
+    @Test
+    public void randomAsciiEqualsScalar() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder sentence = new StringBuilder();
+            int length = random.nextInt(150);
+            for (int j = 0; j < length; j++) {
+                sentence.append(RANDOM_ALPHABET.charAt(random.nextInt(RANDOM_ALPHABET.length())));
+            }
+            Assert.assertEquals(vectorTokenizer.encodePreTokens(sentence.toString()),
+                    scalarTokenizer.encodePreTokens(sentence.toString()), sentence.toString());
+        }
+    }
+
+    @Test
+    public void allAsciiCharactersEqualScalar() {
+        StringBuilder sentence = new StringBuilder();
+        for (char ch = 0; ch < 128; ch++) {
+            sentence.append(ch).append(ch).append(' ').append(ch);
+        }
+        Assert.assertEquals(vectorTokenizer.encodePreTokens(sentence.toString()),
+                scalarTokenizer.encodePreTokens(sentence.toString()));
+    }
+
+    @Test
+    public void nonAsciiFallsBackToScalar() {
+        String sentence = "the price is 10€, café and naïve résumés are fine as well";
+        Assert.assertNull(vectorizedAsciiEncoder.encode(sentence));
+        Assert.assertEquals(vectorTokenizer.encodePreTokens(sentence), scalarTokenizer.encodePreTokens(sentence));
+        Assert.assertEquals(vectorTokenizer.tokenize(sentence), scalarTokenizer.tokenize(sentence));
+    }
+}